@@ -1,13 +1,18 @@
 package main.java;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
+import java.util.function.Consumer;
 
 public class CSVHandler {
 
     private static final String HEADER = "ID,Name,Email,PreferredGame,SkillLevel,PreferredRole,PersonalityScore,PersonalityType";
 
+    // Number of columns in formed_teams.csv (see saveTeams)
+    public static final int TEAM_COLUMNS = 7;
+
     // Load participants (Standard)
     public static List<Participant> load(Path path) throws IOException {
         List<Participant> list = new ArrayList<>();
@@ -20,26 +25,35 @@ public class CSVHandler {
             return list;
         }
 
-        List<String> lines = Files.readAllLines(path);
-        if (lines.size() <= 1) return list;
-
-        for (int i = 1; i < lines.size(); i++) {
-            String[] data = lines.get(i).split(",");
-            if (data.length < 8) continue;
-            try {
-                Participant p = new Participant(
-                        data[0], data[1], data[2], data[3],
-                        Integer.parseInt(data[4]),
-                        Participant.Role.valueOf(data[5].toUpperCase()),
-                        Integer.parseInt(data[6]),
-                        Participant.PersonalityType.valueOf(data[7].toUpperCase())
-                );
-                list.add(p);
-            } catch (IllegalArgumentException e) {
-                System.err.println("Skipping corrupt line: " + lines.get(i));
+        forEach(path, list::add);
+        return list;
+    }
+
+    // Stream participants one row at a time (no full file in memory), e.g. into a ParticipantMerger
+    public static void forEach(Path path, Consumer<Participant> action) throws IOException {
+        if (!Files.exists(path)) {
+            throw new FileNotFoundException("File not found: " + path);
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine(); // Skip header
+            while ((line = reader.readLine()) != null) {
+                String[] data = line.split(",");
+                if (data.length < 8) continue;
+                try {
+                    Participant p = new Participant(
+                            data[0], data[1], data[2], data[3],
+                            Integer.parseInt(data[4]),
+                            Participant.Role.valueOf(data[5].toUpperCase()),
+                            Integer.parseInt(data[6]),
+                            Participant.PersonalityType.valueOf(data[7].toUpperCase())
+                    );
+                    action.accept(p);
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Skipping corrupt line: " + line);
+                }
             }
         }
-        return list;
     }
 
     // Save Participants (Standard)
@@ -58,16 +72,6 @@ public class CSVHandler {
     }
 
 
-    // Load Raw Lines (For Viewing)
-
-    public static List<String> loadRaw(Path path) throws IOException {
-        if (!Files.exists(path)) {
-            return new ArrayList<>();
-        }
-        return Files.readAllLines(path);
-    }
-
-
     // Save Teams (Sorted by Skill DESCENDING)
 
     public static void saveTeams(Path path, List<Team> teams) throws IOException {
@@ -78,10 +82,21 @@ public class CSVHandler {
         List<String> lines = new ArrayList<>();
         lines.add("TeamID,PlayerID,Name,Game,Skill,Role,PersonalityType");
 
+        // Column widths for the viewer, collected while we build the rows
+        int[] widths = new int[TEAM_COLUMNS];
+        updateWidths(widths, lines.get(0).split(",", -1));
+
+        // Where each team block starts (line number) and which block each player is in, for the index
+        List<int[]> blocks = new ArrayList<>(); // {teamId, firstLine, lineCount}
+        List<String> playerIds = new ArrayList<>();
+        List<Integer> playerTeams = new ArrayList<>();
+
         for (Team t : teams) {
+            int firstLine = lines.size();
+
             // Write individual members
             for (Participant p : t.members) {
-                lines.add(String.join(",",
+                String[] cells = {
                         "Team " + t.id,
                         p.id,
                         p.name,
@@ -89,7 +104,9 @@ public class CSVHandler {
                         String.valueOf(p.skill),
                         p.role.name(),
                         p.type.name()
-                ));
+                };
+                updateWidths(widths, cells);
+                lines.add(String.join(",", cells));
             }
 
             // Write Team Summary Row
@@ -100,7 +117,7 @@ public class CSVHandler {
                 long balanced = t.members.stream().filter(m -> m.type == Participant.PersonalityType.BALANCED).count();
                 long thinkers = t.members.stream().filter(m -> m.type == Participant.PersonalityType.THINKER).count();
 
-                lines.add(String.join(",",
+                String[] cells = {
                         "Team " + t.id + " SUMMARY",
                         "",
                         "",
@@ -108,13 +125,107 @@ public class CSVHandler {
                         "Unique Roles: " + uniqueRoles,
                         "Comp: " + leaders + "L / " + thinkers + "T / " + balanced + "B",
                         ""
-                ));
+                };
+                updateWidths(widths, cells);
+                lines.add(String.join(",", cells));
+
+                for (Participant p : t.members) {
+                    playerIds.add(p.id);
+                    playerTeams.add(blocks.size());
+                }
+                blocks.add(new int[]{t.id, firstLine, lines.size() - firstLine});
             }
             lines.add(""); // Empty line for readability
         }
 
+        // 2. WRITE CSV - to a temp file first, tracking the byte offset of every line
         Files.createDirectories(path.getParent());
-        Files.write(path, lines, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        byte[] newline = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+        long[] lineOffsets = new long[lines.size() + 1];
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                long pos = 0;
+                for (int i = 0; i < lines.size(); i++) {
+                    lineOffsets[i] = pos;
+                    byte[] bytes = lines.get(i).getBytes(StandardCharsets.UTF_8);
+                    out.write(bytes);
+                    out.write(newline);
+                    pos += bytes.length + newline.length;
+                }
+                lineOffsets[lines.size()] = pos;
+            }
+            // Drop the old index first: its size/mtime stamp may still match the new CSV
+            // (same size, coarse mtime), and a missing index just means the viewer streams
+            Files.deleteIfExists(TeamIndex.indexPath(path));
+            moveAtomically(tmp, path);
+        } catch (IOException | RuntimeException e) {
+            discardTemp(tmp, e);
+            throw e;
+        }
+
+        // 3. SIDECARS - written after the CSV so they are never older than it
+        StringBuilder widthLine = new StringBuilder("widths=");
+        for (int i = 0; i < widths.length; i++) {
+            if (i > 0) widthLine.append(',');
+            widthLine.append(widths[i]);
+        }
+        Path metaTmp = metaPath(path).resolveSibling(metaPath(path).getFileName() + ".tmp");
+        try {
+            Files.write(metaTmp, List.of(widthLine.toString()));
+            moveAtomically(metaTmp, metaPath(path));
+        } catch (IOException | RuntimeException e) {
+            discardTemp(metaTmp, e);
+            throw e;
+        }
+
+        int[] teamIds = new int[blocks.size()];
+        long[] offsets = new long[blocks.size()];
+        int[] lengths = new int[blocks.size()];
+        for (int i = 0; i < blocks.size(); i++) {
+            int[] b = blocks.get(i);
+            teamIds[i] = b[0];
+            offsets[i] = lineOffsets[b[1]];
+            // Block ends at the last row of the team, without its trailing newline
+            lengths[i] = (int) (lineOffsets[b[1] + b[2]] - offsets[i] - newline.length);
+        }
+        TeamIndex.write(path, teamIds, offsets, lengths,
+                playerIds.toArray(new String[0]),
+                playerTeams.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    // Replace a file in one step so readers never see a half-written version
+    static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // Remove a temp file left by a failed write, so data/ only holds the last complete save
+    static void discardTemp(Path tmp, Exception cause) {
+        try {
+            Files.deleteIfExists(tmp);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    // Update max width for each column (trimmed cell length)
+    public static void updateWidths(int[] widths, String[] cells) {
+        for (int i = 0; i < cells.length && i < widths.length; i++) {
+            int length = cells[i].trim().length();
+            if (length > widths[i]) {
+                widths[i] = length;
+            }
+        }
+    }
+
+    // Sidecar file next to the teams CSV (e.g. formed_teams.csv.meta)
+    public static Path metaPath(Path teamsPath) {
+        return teamsPath.resolveSibling(teamsPath.getFileName() + ".meta");
     }
 
     // Export helper
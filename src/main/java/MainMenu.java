@@ -1,6 +1,6 @@
 package main.java;
 
-import java.io.IOException;
+import java.io.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.concurrent.*;
@@ -21,7 +21,8 @@ public class MainMenu {
             System.out.println("2. Form Teams (Default)");
             System.out.println("3. View Last Formed Teams");
             System.out.println("4. Upload CSV (External CSV)");
-            System.out.println("5. Exit");
+            System.out.println("5. Compare Team Sizes");
+            System.out.println("6. Exit");
             System.out.print("Choose option: ");
 
             String choice = sc.nextLine().trim();
@@ -35,13 +36,14 @@ public class MainMenu {
                 switch (choice) {
                     case "1" -> addParticipant(sc, defaultParticipants);
                     case "2" -> formTeams(sc, defaultParticipants, defaultTeams);
-                    case "3" -> viewTeams(defaultTeams); // Uses new table formatter
+                    case "3" -> viewTeams(sc, defaultTeams); // Paged table viewer
                     case "4" -> importParticipants(sc, defaultParticipants);
-                    case "5" -> {
+                    case "5" -> compareTeamSizes(sc, defaultParticipants);
+                    case "6" -> {
                         System.out.println("Goodbye!");
                         return;
                     }
-                    default -> System.out.println("Invalid option. Please select 1-5.");
+                    default -> System.out.println("Invalid option. Please select 1-6.");
                 }
             } catch (Exception e) {
                 System.err.println("Error: " + e.getMessage());
@@ -51,85 +53,90 @@ public class MainMenu {
     }
 
 
-    // NEW METHOD: View Teams (Table Format)
+    // View Teams (Paged Table Format)
 
-    private static void viewTeams(Path teamsPath) {
+    private static void viewTeams(Scanner sc, Path teamsPath) {
         System.out.println("\n--- EXISTING TEAMS DATA ---");
-        try {
-            List<String> lines = CSVHandler.loadRaw(teamsPath);
-
-            if (lines.isEmpty()) {
-                System.out.println("No team data found. Please form teams first.");
-                return;
-            }
-
-            // 1. Read all data to calculate column widths
-            List<String[]> rows = new ArrayList<>();
-            // We expect 7 columns based on CSVHandler.saveTeams
-            int[] colWidths = new int[7];
-
-            for (String line : lines) {
-                if (line.trim().isEmpty()) {
-                    rows.add(null); // Add null to represent a separator line (empty space in CSV)
-                    continue;
-                }
-
-                // Split by comma, -1 ensures we keep empty trailing columns
-                String[] cells = line.split(",", -1);
-                rows.add(cells);
+        if (!Files.exists(teamsPath)) {
+            System.out.println("No team data found. Please form teams first.");
+            return;
+        }
 
-                // Update max width for each column
-                for (int i = 0; i < cells.length && i < colWidths.length; i++) {
-                    int length = cells[i].trim().length();
-                    if (length > colWidths[i]) {
-                        colWidths[i] = length;
+        // One buffered writer for the whole session; flushed once per page instead of per row
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16));
+
+        // Offset index written by saveTeams; null if missing or stale, then we fall back to streaming
+        try (TeamIndex index = TeamIndex.open(teamsPath)) {
+            int[] widths = TeamViewer.loadWidths(teamsPath);
+            TeamViewer.PageCursor cursor = new TeamViewer.PageCursor(TeamViewer.DEFAULT_PAGE_SIZE);
+            int page = 1;
+            String filter = null;
+
+            while (true) {
+                int shown;
+                if (filter != null) {
+                    // Filter by team ID or player ID
+                    shown = TeamViewer.printMatching(teamsPath, filter, widths, index, out);
+                    if (shown == 0) out.println("No team matches '" + filter + "'.");
+                } else {
+                    shown = TeamViewer.printPage(teamsPath, page, cursor, widths, index, out);
+                    if (shown == 0 && page > 1 && cursor.getLastPage() > 0) {
+                        // Went past the end: the cursor now knows the last page, so show that instead
+                        out.println("Page " + page + " is past the last team. Showing the last page.");
+                        page = cursor.getLastPage();
+                        shown = TeamViewer.printPage(teamsPath, page, cursor, widths, index, out);
+                    }
+                    if (shown == 0) {
+                        out.println("No team data found. Please form teams first.");
+                        out.flush();
+                        return;
                     }
+                    int lastPage = cursor.getLastPage();
+                    out.println("Page " + page + (lastPage > 0 ? " of " + lastPage : ""));
                 }
-            }
-
-            // 2. Build the format string (e.g., "| %-10s | %-15s | ...")
-            StringBuilder formatBuilder = new StringBuilder();
-            for (int width : colWidths) {
-                formatBuilder.append("| %-").append(width).append("s ");
-            }
-            formatBuilder.append("|%n"); // Newline
-            String format = formatBuilder.toString();
-
-            // 3. Print the Table
-            printTableSeparator(colWidths);
-
-            for (String[] row : rows) {
-                if (row == null) {
-                    // Print a separator line when we hit a null (empty line in CSV)
-                    printTableSeparator(colWidths);
-                } else {
-                    // Create an object array padded to 7 columns to avoid crashes
-                    Object[] args = new Object[7];
-                    for (int i = 0; i < 7; i++) {
-                        args[i] = (i < row.length) ? row[i].trim() : "";
+                out.println("[n] next  [p] previous  [g <page>] go to page  [f <team/player>] find  [q] back");
+                out.print("View: ");
+                out.flush();
+
+                String command = sc.nextLine().trim();
+                String lower = command.toLowerCase();
+                boolean wasFiltering = filter != null;
+                filter = null;
+
+                if (lower.equals("q") || lower.isEmpty()) {
+                    return;
+                } else if (lower.equals("n")) {
+                    if (wasFiltering) continue;
+                    if (page == cursor.getLastPage()) {
+                        out.println("Already on the last page.");
+                    } else {
+                        page++;
+                    }
+                } else if (lower.equals("p")) {
+                    if (page > 1) page--;
+                } else if (lower.startsWith("g ")) {
+                    try {
+                        page = Math.max(1, Integer.parseInt(lower.substring(2).trim()));
+                        if (cursor.getLastPage() > 0) page = Math.min(page, cursor.getLastPage());
+                    } catch (NumberFormatException e) {
+                        out.println("Invalid page number.");
                     }
-                    System.out.printf(format, args);
+                } else if (lower.startsWith("f ") && command.length() > 2) {
+                    filter = command.substring(2).trim();
+                } else {
+                    out.println("Unknown command.");
                 }
             }
-            printTableSeparator(colWidths);
-
         } catch (IOException e) {
-            System.out.println("Error reading file: " + e.getMessage());
-        }
-    }
-
-    // Helper to print the horizontal lines (+--------+-------+)
-    private static void printTableSeparator(int[] widths) {
-        System.out.print("+");
-        for (int w : widths) {
-            // w + 2 accounts for the extra spaces added in the format string
-            System.out.print("-".repeat(w + 2) + "+");
+            // Through the same writer, so any half-printed page comes out before the error
+            out.println("Error reading file: " + e.getMessage());
+        } finally {
+            out.flush();
         }
-        System.out.println();
     }
 
 
-    // Existing Methods (Unchanged)
+    // Other Menu Actions
 
 
     private static void importParticipants(Scanner sc, Path defaultPath) {
@@ -137,14 +144,23 @@ public class MainMenu {
         String inputPath = sc.nextLine().trim();
         Path source = Paths.get(inputPath);
 
+        System.out.println("\nIf a player ID or email already exists:");
+        System.out.println("1. Keep existing\n2. Replace with imported\n3. Update existing with imported fields");
+        ParticipantMerger.Policy policy = ParticipantMerger.Policy.fromChoice(getValidInt(sc, 1, 3));
+
         try {
-            List<Participant> imported = CSVHandler.load(source);
-            if (imported.isEmpty()) {
+            // Merge into the current roster, deduplicating by ID and email as rows are read
+            List<Participant> roster = CSVHandler.load(defaultPath);
+            ParticipantMerger merger = new ParticipantMerger(roster, policy);
+            CSVHandler.forEach(source, merger::add);
+
+            if (merger.getAdded() == 0 && merger.getDuplicateCount() == 0) {
                 System.out.println("No valid participants found in that file.");
                 return;
             }
-            CSVHandler.save(defaultPath, imported);
-            System.out.println("Successfully imported " + imported.size() + " participants to system!");
+            if (merger.getAdded() + merger.getUpdated() > 0) CSVHandler.save(defaultPath, roster);
+            System.out.println("Import finished. " + merger.getReport());
+            System.out.println("Roster now has " + roster.size() + " participants.");
         } catch (IOException e) {
             System.out.println("File error: " + e.getMessage());
         }
@@ -152,14 +168,15 @@ public class MainMenu {
 
     private static void addParticipant(Scanner sc, Path path) throws IOException {
         List<Participant> participants = CSVHandler.load(path);
+        ParticipantMerger merger = new ParticipantMerger(participants, ParticipantMerger.Policy.KEEP_FIRST);
 
         System.out.print("Enter Player ID (e.g., P101): ");
-        String id = getValidInput(sc, "ID");
+        String id = getUniqueId(sc, merger);
 
         System.out.print("Enter Name: ");
         String name = getValidInput(sc, "Name");
 
-        String email = getValidEmail(sc);
+        String email = getUniqueEmail(sc, merger);
 
         System.out.println("\nSelect Game:");
         System.out.println("1. CS:GO\n2. Valorant\n3. Chess\n4. FIFA\n5. Dota 2");
@@ -215,7 +232,7 @@ public class MainMenu {
             surveyThread.shutdown();
         }
 
-        participants.add(newP);
+        merger.add(newP);
         CSVHandler.save(path, participants);
         System.out.println("\nPlayer added!");
     }
@@ -265,6 +282,27 @@ public class MainMenu {
         System.out.println("Use Option 3 to view the generated teams.");
     }
 
+    private static void compareTeamSizes(Scanner sc, Path participantsPath) throws IOException {
+        List<Participant> players = CSVHandler.load(participantsPath);
+        if (players.isEmpty()) {
+            System.out.println("No participants found. Add members or Import CSV first!");
+            return;
+        }
+
+        System.out.print("Enter smallest team size: ");
+        int minSize = getValidInt(sc, 1, players.size());
+        System.out.print("Enter largest team size: ");
+        int maxSize = getValidInt(sc, minSize, players.size());
+
+        System.out.println("\nComparing team sizes " + minSize + " to " + maxSize + " (Parallel Processing)...");
+        List<TeamQualityReport> reports = TeamBuilder.sweep(players, minSize, maxSize);
+
+        for (TeamQualityReport report : reports) {
+            System.out.println(report.getSummary());
+        }
+        System.out.println("Nothing was saved. Use Option 2 to form teams with the size you prefer.");
+    }
+
     private static String getValidEmail(Scanner sc) {
         while (true) {
             System.out.print("Enter Email: ");
@@ -276,6 +314,22 @@ public class MainMenu {
         }
     }
 
+    private static String getUniqueId(Scanner sc, ParticipantMerger merger) {
+        while (true) {
+            String input = getValidInput(sc, "ID");
+            if (!merger.containsId(input)) return input;
+            System.out.print("A player with ID " + input + " already exists. Enter another ID: ");
+        }
+    }
+
+    private static String getUniqueEmail(Scanner sc, ParticipantMerger merger) {
+        while (true) {
+            String input = getValidEmail(sc);
+            if (!merger.containsEmail(input)) return input;
+            System.out.println("That email is already registered!");
+        }
+    }
+
     private static int getValidInt(Scanner sc, int min, int max) {
         while (true) {
             try {
@@ -0,0 +1,222 @@
+package main.java;
+
+import java.util.*;
+
+public class ParticipantMerger {
+
+    // What to do when an incoming row has the same ID or email as one already in the roster
+    public enum Policy {
+        KEEP_FIRST,    // Ignore the incoming row
+        KEEP_LAST,     // Replace the existing row with the incoming one
+        UPDATE_FIELDS; // Keep the existing row, overwrite only fields the incoming row actually fills
+
+        // Helper method to convert menu input (int) to Enum
+        public static Policy fromChoice(int c) {
+            return switch (c) {
+                case 2 -> KEEP_LAST;
+                case 3 -> UPDATE_FIELDS;
+                default -> KEEP_FIRST;
+            };
+        }
+    }
+
+    private final List<Participant> roster;
+    private final Policy policy;
+    private final KeyIndex byId;
+    private final KeyIndex byEmail;
+
+    // Counters for the import report
+    private int added, updated, duplicateIds, duplicateEmails, conflicts;
+
+    public ParticipantMerger(List<Participant> roster, Policy policy) {
+        this.roster = roster;
+        this.policy = policy;
+        this.byId = new KeyIndex(false, Math.max(16, roster.size()));
+        this.byEmail = new KeyIndex(true, Math.max(16, roster.size()));
+
+        // Index the existing roster; duplicates already in it are left as they are
+        for (int row = 0; row < roster.size(); row++) {
+            Participant p = roster.get(row);
+            if (byId.find(p.id) < 0) byId.insert(p.id, row);
+            if (byEmail.find(p.email) < 0) byEmail.insert(p.email, row);
+        }
+    }
+
+
+    // 1. MERGING
+
+    // Adds or merges one participant according to the policy. Returns true if the roster changed.
+    public boolean add(Participant p) {
+        // Store the email the way we match it (no stray spaces), so the saved roster agrees with the index
+        p.email = p.email.trim();
+
+        int idRow = byId.find(p.id);
+        int emailRow = byEmail.find(p.email);
+
+        if (idRow < 0 && emailRow < 0) {
+            byId.insert(p.id, roster.size());
+            byEmail.insert(p.email, roster.size());
+            roster.add(p);
+            added++;
+            return true;
+        }
+
+        // ID points at one person and email at another: we cannot tell which one to merge into
+        if (idRow >= 0 && emailRow >= 0 && idRow != emailRow) {
+            conflicts++;
+            return false;
+        }
+
+        int row;
+        if (idRow >= 0) {
+            row = idRow;
+            duplicateIds++;
+        } else {
+            row = emailRow;
+            duplicateEmails++;
+        }
+
+        if (policy == Policy.KEEP_FIRST) return false;
+
+        Participant existing = roster.get(row);
+        if (policy == Policy.KEEP_LAST) {
+            roster.set(row, p);
+        } else {
+            updateFields(existing, p);
+            p = existing;
+        }
+
+        // The key that did not match may have changed; old entries go stale and are ignored by find()
+        if (idRow < 0) byId.insert(p.id, row);
+        if (emailRow < 0) byEmail.insert(p.email, row);
+        updated++;
+        return true;
+    }
+
+    private static void updateFields(Participant target, Participant source) {
+        if (!source.name.isBlank()) target.name = source.name;
+        if (!source.email.isBlank()) target.email = source.email;
+        if (!source.game.isBlank()) target.game = source.game;
+        if (source.role != Participant.Role.UNKNOWN) target.role = source.role;
+        target.skill = source.skill;
+        target.score = source.score;
+        target.type = source.type;
+    }
+
+    public boolean containsId(String id) {
+        return byId.find(id) >= 0;
+    }
+
+    public boolean containsEmail(String email) {
+        return byEmail.find(email) >= 0;
+    }
+
+
+    // 2. REPORT
+
+    public int getAdded() {
+        return added;
+    }
+
+    // Existing rows replaced or updated by a duplicate (always 0 with KEEP_FIRST)
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getDuplicateCount() {
+        return duplicateIds + duplicateEmails + conflicts;
+    }
+
+    public String getReport() {
+        return String.format("Added: %d | Updated: %d | Duplicate IDs: %d | Duplicate emails: %d | " +
+                        "Conflicts skipped: %d (%s)",
+                added, updated, duplicateIds, duplicateEmails, conflicts, policy);
+    }
+
+
+    // 3. PRIMITIVE HASH INDEX
+    // Open addressing over two flat arrays (64-bit key hash + roster row), so there is no
+    // object per key. A hash hit is confirmed against the roster, which makes collisions harmless.
+
+    private final class KeyIndex {
+        private final boolean email; // Emails are normalized (trimmed, case-insensitive), IDs are trimmed
+        private long[] hashes;
+        private int[] rows;          // Row + 1, so 0 means an empty slot
+        private int size;
+
+        KeyIndex(boolean email, int expected) {
+            this.email = email;
+            int capacity = Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) << 1; // Load factor <= 0.5
+            hashes = new long[capacity];
+            rows = new int[capacity];
+        }
+
+        // Blank keys (e.g. an empty Email column) are never indexed, so they never match each other
+        int find(String key) {
+            if (isBlank(key)) return -1;
+            long h = hash(key);
+            int mask = rows.length - 1;
+            for (int slot = (int) h & mask; rows[slot] != 0; slot = (slot + 1) & mask) {
+                if (hashes[slot] == h && sameKey(roster.get(rows[slot] - 1), key)) {
+                    return rows[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        void insert(String key, int row) {
+            if (isBlank(key)) return;
+            if ((size + 1) * 2 > rows.length) grow();
+            put(hash(key), row + 1);
+            size++;
+        }
+
+        private void put(long h, int rowPlusOne) {
+            int mask = rows.length - 1;
+            int slot = (int) h & mask;
+            while (rows[slot] != 0) slot = (slot + 1) & mask;
+            hashes[slot] = h;
+            rows[slot] = rowPlusOne;
+        }
+
+        private void grow() {
+            long[] oldHashes = hashes;
+            int[] oldRows = rows;
+            hashes = new long[oldRows.length * 2];
+            rows = new int[oldRows.length * 2];
+            for (int i = 0; i < oldRows.length; i++) {
+                if (oldRows[i] != 0) put(oldHashes[i], oldRows[i]);
+            }
+        }
+
+        private boolean isBlank(String key) {
+            return key == null || key.trim().isEmpty();
+        }
+
+        private boolean sameKey(Participant p, String key) {
+            String stored = (email ? p.email : p.id).trim();
+            String probe = key.trim();
+            return email ? stored.equalsIgnoreCase(probe) : stored.equals(probe);
+        }
+
+        // FNV-1a over the normalized characters, without building a normalized copy of the key
+        private long hash(String key) {
+            int start = 0, end = key.length();
+            // Same rule as String.trim(), which sameKey() uses
+            while (start < end && key.charAt(start) <= ' ') start++;
+            while (end > start && key.charAt(end - 1) <= ' ') end--;
+
+            long h = 0xcbf29ce484222325L;
+            for (int i = start; i < end; i++) {
+                char c = key.charAt(i);
+                if (email) c = Character.toLowerCase(Character.toUpperCase(c));
+                h = (h ^ c) * 0x100000001b3L;
+            }
+            // Finish with a MurmurHash3-style mix so the low bits used for the slot are well spread
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -151,11 +151,15 @@ public class TeamBuilder {
     }
 
     private static List<Participant> filterAndShuffle(List<Participant> all, Participant.PersonalityType type) {
-        List<Participant> filtered = all.stream()
-                .filter(p -> p.type == type)
-                .collect(Collectors.toList());
+        List<Participant> filtered = filter(all, type);
         Collections.shuffle(filtered);
-        return new ArrayList<>(filtered); // Return ArrayList for simpler synchronization
+        return filtered;
+    }
+
+    private static List<Participant> filter(List<Participant> all, Participant.PersonalityType type) {
+        return all.stream()
+                .filter(p -> p.type == type)
+                .collect(Collectors.toCollection(ArrayList::new)); // ArrayList for simpler synchronization
     }
 
 
@@ -209,4 +213,74 @@ public class TeamBuilder {
 
         return true;
     }
-}
\ No newline at end of file
+
+
+    // 5. TEAM SIZE SWEEP (Compare several sizes in one go)
+
+    public static List<TeamQualityReport> sweep(List<Participant> players, int minSize, int maxSize) {
+        if (players.isEmpty()) throw new IllegalArgumentException("No players available.");
+        if (minSize < 1 || maxSize < minSize) throw new IllegalArgumentException("Invalid team size range.");
+
+        // 1. Filter and shuffle the pools ONCE, so every size starts from the same order
+        // and the reports differ only because of the team size
+        List<Participant> leaders = filterAndShuffle(players, Participant.PersonalityType.LEADER);
+        List<Participant> thinkers = filterAndShuffle(players, Participant.PersonalityType.THINKER);
+        List<Participant> balanced = filterAndShuffle(players, Participant.PersonalityType.BALANCED);
+
+        // 2. One task per team size, spread over the available cores
+        int sizes = maxSize - minSize + 1;
+        int threads = Math.min(sizes, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Callable<TeamQualityReport>> tasks = new ArrayList<>();
+
+        for (int size = minSize; size <= maxSize; size++) {
+            final int teamSize = size;
+            tasks.add(() -> buildForSweep(teamSize, players.size(), leaders, thinkers, balanced));
+        }
+
+        List<TeamQualityReport> reports = new ArrayList<>();
+
+        try {
+            for (Future<TeamQualityReport> future : executor.invokeAll(tasks)) {
+                try {
+                    reports.add(future.get());
+                } catch (ExecutionException e) {
+                    System.err.println("Error building teams for one size: " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdown();
+        }
+
+        return reports;
+    }
+
+    // Builds all teams for one size on the calling thread (the sweep already runs sizes in parallel)
+    private static TeamQualityReport buildForSweep(int teamSize, int totalPlayers,
+                                                   List<Participant> leaders,
+                                                   List<Participant> thinkers,
+                                                   List<Participant> balanced) {
+        // Plain copies: building removes players from the pools, the shared ones must stay intact
+        List<Participant> myLeaders = new ArrayList<>(leaders);
+        List<Participant> myThinkers = new ArrayList<>(thinkers);
+        List<Participant> myBalanced = new ArrayList<>(balanced);
+
+        List<Team> teams = new ArrayList<>();
+        int rejected = 0;
+        int maxTeams = myLeaders.size();
+
+        for (int i = 0; i < maxTeams; i++) {
+            Team t = buildSingleTeam(i + 1, teamSize, myLeaders, myThinkers, myBalanced);
+            if (t != null) {
+                teams.add(t);
+            } else {
+                rejected++;
+            }
+        }
+
+        balanceSkillLevels(teams);
+        return new TeamQualityReport(teamSize, totalPlayers, teams, rejected);
+    }
+}
@@ -0,0 +1,204 @@
+package main.java;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+public class TeamIndex implements Closeable {
+
+    private static final int MAGIC = 0x544D4958; // "TMIX"
+    private static final int VERSION = 2; // 2: player IDs sorted case-sensitively
+
+    // Team table in file order (ordinal -> block position in the CSV)
+    private final int[] teamIds;
+    private final long[] offsets;
+    private final int[] lengths;
+
+    // Team IDs sorted for binary search, with the matching ordinal
+    private final int[] sortedTeamIds;
+    private final int[] sortedTeamOrdinals;
+
+    // Player IDs sorted (trimmed, case-sensitive like the roster), with the ordinal of their team
+    private final String[] playerIds;
+    private final int[] playerTeams;
+
+    private final FileChannel channel;
+
+    private TeamIndex(int[] teamIds, long[] offsets, int[] lengths,
+                      String[] playerIds, int[] playerTeams, FileChannel channel) {
+        this.teamIds = teamIds;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.playerIds = playerIds;
+        this.playerTeams = playerTeams;
+        this.channel = channel;
+
+        Integer[] order = new Integer[teamIds.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingInt(i -> teamIds[i]));
+        sortedTeamIds = new int[order.length];
+        sortedTeamOrdinals = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedTeamIds[i] = teamIds[order[i]];
+            sortedTeamOrdinals[i] = order[i];
+        }
+    }
+
+    // Index file next to the teams CSV (e.g. formed_teams.csv.idx)
+    public static Path indexPath(Path teamsPath) {
+        return teamsPath.resolveSibling(teamsPath.getFileName() + ".idx");
+    }
+
+
+    // 1. WRITING (Called by CSVHandler.saveTeams after the CSV is in place)
+
+    static void write(Path teamsPath, int[] teamIds, long[] offsets, int[] lengths,
+                      String[] playerIds, int[] playerTeams) throws IOException {
+
+        // Sort players once here so lookups can binary search straight away
+        Integer[] order = new Integer[playerIds.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparing(i -> playerIds[i].trim()));
+
+        Path index = indexPath(teamsPath);
+        Path tmp = index.resolveSibling(index.getFileName() + ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+
+                // Stamp of the CSV this index describes; a mismatch means the index is stale
+                out.writeLong(Files.size(teamsPath));
+                out.writeLong(Files.getLastModifiedTime(teamsPath).toMillis());
+
+                out.writeInt(teamIds.length);
+                for (int i = 0; i < teamIds.length; i++) {
+                    out.writeInt(teamIds[i]);
+                    out.writeLong(offsets[i]);
+                    out.writeInt(lengths[i]);
+                }
+
+                out.writeInt(order.length);
+                for (int i : order) {
+                    out.writeUTF(playerIds[i].trim());
+                    out.writeInt(playerTeams[i]);
+                }
+            }
+            CSVHandler.moveAtomically(tmp, index);
+        } catch (IOException | RuntimeException e) {
+            CSVHandler.discardTemp(tmp, e);
+            throw e;
+        }
+    }
+
+
+    // 2. OPENING (Returns null when there is no usable index)
+
+    public static TeamIndex open(Path teamsPath) throws IOException {
+        Path index = indexPath(teamsPath);
+        if (!Files.exists(index) || !Files.exists(teamsPath)) return null;
+
+        long indexSize = Files.size(index);
+        long csvSize = Files.size(teamsPath);
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(index)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return null;
+
+            long indexedCsvSize = in.readLong();
+            long csvModified = in.readLong();
+            if (indexedCsvSize != csvSize
+                    || csvModified != Files.getLastModifiedTime(teamsPath).toMillis()) {
+                return null; // CSV was rewritten without this index
+            }
+
+            // Each team entry is 16 bytes, so a count larger than the file is corrupt
+            int teamCount = in.readInt();
+            if (teamCount < 0 || teamCount > indexSize / 16) return null;
+
+            int[] ids = new int[teamCount];
+            long[] offsets = new long[teamCount];
+            int[] lengths = new int[teamCount];
+            for (int i = 0; i < teamCount; i++) {
+                ids[i] = in.readInt();
+                offsets[i] = in.readLong();
+                lengths[i] = in.readInt();
+                if (offsets[i] < 0 || lengths[i] < 0 || offsets[i] + lengths[i] > csvSize) return null;
+            }
+
+            // Each player entry is at least 6 bytes (empty UTF string + team ordinal)
+            int playerCount = in.readInt();
+            if (playerCount < 0 || playerCount > indexSize / 6) return null;
+
+            String[] players = new String[playerCount];
+            int[] playerTeams = new int[playerCount];
+            for (int i = 0; i < playerCount; i++) {
+                players[i] = in.readUTF();
+                playerTeams[i] = in.readInt();
+                if (playerTeams[i] < 0 || playerTeams[i] >= teamCount) return null;
+            }
+
+            return new TeamIndex(ids, offsets, lengths, players, playerTeams,
+                    FileChannel.open(teamsPath, StandardOpenOption.READ));
+        } catch (EOFException | UTFDataFormatException e) {
+            return null; // Truncated or corrupt index, ignore it
+        }
+    }
+
+
+    // 3. LOOKUPS (One positioned read each, no CSV parsing)
+
+    public int teamCount() {
+        return teamIds.length;
+    }
+
+    // Rows of the team at the given position in the file (0-based)
+    public List<String> readTeamAt(int ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= teamIds.length) return null;
+
+        ByteBuffer buffer = ByteBuffer.allocate(lengths[ordinal]);
+        long position = offsets[ordinal];
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new EOFException("Teams file is shorter than its index.");
+        }
+        String block = new String(buffer.array(), StandardCharsets.UTF_8);
+        return Arrays.asList(block.split("\\R"));
+    }
+
+    // Positions (file order) of every team with this ID; empty if there is none
+    public int[] findTeams(int teamId) {
+        int pos = Arrays.binarySearch(sortedTeamIds, teamId);
+        if (pos < 0) return new int[0];
+
+        int from = pos, to = pos + 1;
+        while (from > 0 && sortedTeamIds[from - 1] == teamId) from--;
+        while (to < sortedTeamIds.length && sortedTeamIds[to] == teamId) to++;
+
+        int[] ordinals = Arrays.copyOfRange(sortedTeamOrdinals, from, to);
+        Arrays.sort(ordinals);
+        return ordinals;
+    }
+
+    // Positions (file order) of every team this player appears in; empty if none.
+    // A roster with duplicate IDs can place the same ID in several teams, so we take the whole run.
+    public int[] findTeamsOfPlayer(String playerId) {
+        String key = playerId.trim();
+        int pos = Arrays.binarySearch(playerIds, key);
+        if (pos < 0) return new int[0];
+
+        int from = pos, to = pos + 1;
+        while (from > 0 && playerIds[from - 1].equals(key)) from--;
+        while (to < playerIds.length && playerIds[to].equals(key)) to++;
+
+        return Arrays.stream(playerTeams, from, to).distinct().sorted().toArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,57 @@
+package main.java;
+
+import java.util.List;
+
+public class TeamQualityReport {
+    // Quality of one formation run, used to compare team sizes
+    int teamSize, teamsFormed, rejectedTeams, playersPlaced, totalPlayers;
+    double minAvgSkill, maxAvgSkill, skillStdDev, avgUniqueRoles;
+    int minUniqueRoles;
+
+    public TeamQualityReport(int teamSize, int totalPlayers, List<Team> teams, int rejectedTeams) {
+        this.teamSize = teamSize;
+        this.totalPlayers = totalPlayers;
+        this.teamsFormed = teams.size();
+        this.rejectedTeams = rejectedTeams;
+        this.playersPlaced = teams.stream().mapToInt(t -> t.members.size()).sum();
+
+        if (teams.isEmpty()) return; // Nothing formed, all stats stay 0
+
+        // Skill spread between teams (based on each team's average)
+        double[] averages = teams.stream().mapToDouble(Team::getAverageSkill).toArray();
+        double mean = 0;
+        minAvgSkill = Double.MAX_VALUE;
+        for (double avg : averages) {
+            mean += avg;
+            minAvgSkill = Math.min(minAvgSkill, avg);
+            maxAvgSkill = Math.max(maxAvgSkill, avg);
+        }
+        mean /= averages.length;
+
+        double variance = 0;
+        for (double avg : averages) variance += (avg - mean) * (avg - mean);
+        skillStdDev = Math.sqrt(variance / averages.length);
+
+        // Role variety inside teams
+        avgUniqueRoles = teams.stream().mapToInt(Team::getUniqueRoleCount).average().orElse(0);
+        minUniqueRoles = teams.stream().mapToInt(Team::getUniqueRoleCount).min().orElse(0);
+    }
+
+    // Share of all participants that ended up in a team
+    public double getUtilization() {
+        return totalPlayers == 0 ? 0 : (double) playersPlaced / totalPlayers;
+    }
+
+    public double getSkillSpread() {
+        return maxAvgSkill - minAvgSkill;
+    }
+
+    // Generate a one-line summary for the console
+    public String getSummary() {
+        // Format: Size -> Teams | Rejected | Utilization | Skill Spread | Roles
+        return String.format("Size %d → Teams: %d | Rejected: %d | Placed: %d/%d (%.0f%%) | " +
+                        "Skill Spread: %.1f (SD %.2f) | Roles: avg %.1f, min %d",
+                teamSize, teamsFormed, rejectedTeams, playersPlaced, totalPlayers, getUtilization() * 100,
+                getSkillSpread(), skillStdDev, avgUniqueRoles, minUniqueRoles);
+    }
+}
@@ -0,0 +1,337 @@
+package main.java;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+public class TeamViewer {
+
+    // How many lines we scan for column widths when no sidecar file exists
+    private static final int SAMPLE_LINES = 500;
+
+    public static final int DEFAULT_PAGE_SIZE = 10; // Teams per page
+
+
+    // 1. COLUMN WIDTHS (Sidecar or Bounded Sample)
+
+    public static int[] loadWidths(Path teamsPath) throws IOException {
+        int[] widths = readSidecarWidths(teamsPath);
+        if (widths != null) return widths;
+
+        // No (fresh) sidecar: look at the first few hundred lines only
+        widths = new int[CSVHandler.TEAM_COLUMNS];
+        try (BufferedReader reader = Files.newBufferedReader(teamsPath, StandardCharsets.UTF_8)) {
+            String line;
+            int read = 0;
+            while (read < SAMPLE_LINES && (line = reader.readLine()) != null) {
+                read++;
+                if (line.trim().isEmpty()) continue;
+                CSVHandler.updateWidths(widths, line.split(",", -1));
+            }
+        }
+        return widths;
+    }
+
+    private static int[] readSidecarWidths(Path teamsPath) throws IOException {
+        Path meta = CSVHandler.metaPath(teamsPath);
+        if (!Files.exists(meta)) return null;
+
+        // Ignore a sidecar that is older than the CSV (e.g. file was replaced by hand)
+        if (Files.getLastModifiedTime(meta).compareTo(Files.getLastModifiedTime(teamsPath)) < 0) return null;
+
+        for (String line : Files.readAllLines(meta, StandardCharsets.UTF_8)) {
+            if (!line.startsWith("widths=")) continue;
+            String[] parts = line.substring("widths=".length()).split(",");
+            if (parts.length != CSVHandler.TEAM_COLUMNS) return null;
+            int[] widths = new int[CSVHandler.TEAM_COLUMNS];
+            try {
+                for (int i = 0; i < widths.length; i++) widths[i] = Integer.parseInt(parts[i].trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            return widths;
+        }
+        return null;
+    }
+
+
+    // 2. PAGED VIEW (Streams blocks, never loads the whole file)
+
+    // Remembers where each page starts in the file during one viewing session,
+    // so going back or jumping to a page already passed never rescans from the top
+    public static class PageCursor {
+        private final int pageSize;
+        private final List<Long> pageStarts = new ArrayList<>(); // Byte offset of page (i + 1)
+        private int lastPage = -1;                                // Unknown until we reach the end
+
+        public PageCursor(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        // Number of the last page, or -1 if the end of the file has not been reached yet
+        public int getLastPage() {
+            return lastPage;
+        }
+
+        private void markPageStart(int page, long offset) {
+            if (pageStarts.size() == page - 1) pageStarts.add(offset);
+        }
+    }
+
+    // Prints one page of teams. Returns the number of teams printed (0 = past the end).
+    // With an index the page is found by offset; without one we resume from the nearest page already seen.
+    public static int printPage(Path teamsPath, int page, PageCursor cursor, int[] widths,
+                                TeamIndex index, PrintWriter out) throws IOException {
+        int pageSize = cursor.pageSize;
+        int printed = 0;
+
+        if (index != null) {
+            cursor.lastPage = Math.max(1, (index.teamCount() + pageSize - 1) / pageSize);
+            String header = readHeader(teamsPath);
+            List<String> block;
+            while (printed < pageSize && (block = index.readTeamAt((page - 1) * pageSize + printed)) != null) {
+                if (printed == 0) printHeader(header, widths, out);
+                printBlock(block, widths, out);
+                printed++;
+            }
+            return printed;
+        }
+
+        String header = readHeader(teamsPath);
+        if (cursor.pageStarts.isEmpty()) {
+            try (LineReader reader = new LineReader(teamsPath, 0)) {
+                if (reader.readLine() == null) return 0; // Empty file
+                cursor.markPageStart(1, reader.position());
+            }
+        }
+
+        // Start from the closest page whose offset we already know
+        int current = Math.min(page, cursor.pageStarts.size());
+        try (LineReader reader = new LineReader(teamsPath, cursor.pageStarts.get(current - 1))) {
+
+            // Skip forward to the requested page, recording page starts on the way
+            while (current < page) {
+                for (int skipped = 0; skipped < pageSize; skipped++) {
+                    if (!skipBlock(reader)) {
+                        cursor.lastPage = (skipped > 0) ? current : Math.max(1, current - 1);
+                        return 0;
+                    }
+                }
+                current++;
+                cursor.markPageStart(current, reader.position());
+            }
+
+            List<String> block;
+            while (printed < pageSize && (block = nextBlock(reader)) != null) {
+                if (printed == 0) printHeader(header, widths, out);
+                printBlock(block, widths, out);
+                printed++;
+            }
+
+            if (printed < pageSize) {
+                cursor.lastPage = (printed > 0) ? page : Math.max(1, page - 1);
+            } else {
+                cursor.markPageStart(page + 1, reader.position());
+            }
+        }
+        return printed;
+    }
+
+
+    // 3. SEARCH (Team ID or Player ID, indexed or streamed)
+
+    // Prints every team whose ID matches, or which contains the given player. Returns teams printed.
+    public static int printMatching(Path teamsPath, String query, int[] widths,
+                                    TeamIndex index, PrintWriter out) throws IOException {
+        String teamKey = normalizeTeamId(query);
+        String playerKey = query.trim();
+        int printed = 0;
+
+        if (index != null) {
+            // Team matches and player matches, in file order and each team once (like the streaming path)
+            TreeSet<Integer> ordinals = new TreeSet<>();
+            try {
+                for (int ordinal : index.findTeams(Integer.parseInt(teamKey.substring(5)))) ordinals.add(ordinal);
+            } catch (NumberFormatException e) {
+                // Not a team number, only look for a player
+            }
+            for (int ordinal : index.findTeamsOfPlayer(playerKey)) ordinals.add(ordinal);
+            if (ordinals.isEmpty()) return 0;
+
+            printHeader(readHeader(teamsPath), widths, out);
+            for (int ordinal : ordinals) {
+                printBlock(index.readTeamAt(ordinal), widths, out);
+                printed++;
+            }
+            return printed;
+        }
+
+        try (LineReader reader = new LineReader(teamsPath, 0)) {
+            String header = reader.readLine();
+            if (header == null) return 0;
+
+            List<String> block;
+            while ((block = nextBlock(reader)) != null) {
+                if (!blockMatches(block, teamKey, playerKey)) continue;
+                if (printed == 0) printHeader(header, widths, out);
+                printBlock(block, widths, out);
+                printed++;
+            }
+        }
+        return printed;
+    }
+
+    // Accepts "12" or "Team 12" and returns the value used in the TeamID column
+    static String normalizeTeamId(String query) {
+        String q = query.trim();
+        if (q.regionMatches(true, 0, "Team ", 0, 5)) q = q.substring(5).trim();
+        return "Team " + q;
+    }
+
+    private static boolean blockMatches(List<String> block, String teamKey, String playerKey) {
+        for (String row : block) {
+            int first = row.indexOf(',');
+            if (first < 0) continue;
+            if (row.substring(0, first).trim().equals(teamKey)) return true;
+
+            int second = row.indexOf(',', first + 1);
+            String playerId = (second < 0) ? row.substring(first + 1) : row.substring(first + 1, second);
+            if (!playerId.isEmpty() && playerId.trim().equals(playerKey)) return true; // Case-sensitive, like the roster
+        }
+        return false;
+    }
+
+
+    // 4. READING HELPERS
+
+    private static String readHeader(Path teamsPath) throws IOException {
+        try (LineReader reader = new LineReader(teamsPath, 0)) {
+            String header = reader.readLine();
+            return (header == null) ? "" : header;
+        }
+    }
+
+    // Reads the rows of the next team (up to the next empty line). Returns null at end of file.
+    private static List<String> nextBlock(LineReader reader) throws IOException {
+        List<String> block = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.trim().isEmpty()) {
+                if (block.isEmpty()) continue;
+                return block;
+            }
+            block.add(line);
+        }
+        return block.isEmpty() ? null : block;
+    }
+
+    // Moves past the next team without splitting its rows. Returns false if there was none.
+    private static boolean skipBlock(LineReader reader) throws IOException {
+        boolean inBlock = false;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.trim().isEmpty()) {
+                if (inBlock) return true;
+            } else {
+                inBlock = true;
+            }
+        }
+        return inBlock;
+    }
+
+    // Line reader that knows its byte position, so page starts can be remembered and seeked to
+    private static final class LineReader implements Closeable {
+        private final InputStream in;
+        private final byte[] buffer = new byte[1 << 16];
+        private int bufferPos, bufferEnd;
+        private byte[] line = new byte[256];
+        private long position;
+
+        LineReader(Path path, long start) throws IOException {
+            SeekableByteChannel channel = Files.newByteChannel(path, StandardOpenOption.READ);
+            channel.position(start);
+            this.in = Channels.newInputStream(channel);
+            this.position = start;
+        }
+
+        // Returns the next line without its \n or \r\n, or null at end of file
+        String readLine() throws IOException {
+            int length = 0;
+            boolean sawByte = false;
+            while (true) {
+                if (bufferPos == bufferEnd) {
+                    bufferEnd = in.read(buffer);
+                    bufferPos = 0;
+                    if (bufferEnd <= 0) {
+                        bufferEnd = 0;
+                        if (!sawByte) return null;
+                        break;
+                    }
+                }
+                byte b = buffer[bufferPos++];
+                position++;
+                sawByte = true;
+                if (b == '\n') break;
+                if (length == line.length) line = Arrays.copyOf(line, length * 2);
+                line[length++] = b;
+            }
+            if (length > 0 && line[length - 1] == '\r') length--;
+            return new String(line, 0, length, StandardCharsets.UTF_8);
+        }
+
+        // Byte offset of the next line to be read
+        long position() {
+            return position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+
+    // 5. RENDERING HELPERS
+
+    private static void printHeader(String header, int[] widths, PrintWriter out) {
+        printTableSeparator(widths, out);
+        printRow(header, widths, out);
+        printTableSeparator(widths, out);
+    }
+
+    private static void printBlock(List<String> block, int[] widths, PrintWriter out) {
+        for (String row : block) {
+            printRow(row, widths, out);
+        }
+        printTableSeparator(widths, out);
+    }
+
+    // Pads each cell by hand instead of printf (no format parsing per row)
+    private static void printRow(String line, int[] widths, PrintWriter out) {
+        String[] cells = line.split(",", -1);
+        StringBuilder sb = new StringBuilder(128);
+        for (int i = 0; i < widths.length; i++) {
+            String cell = (i < cells.length) ? cells[i].trim() : "";
+            // Widths may come from a sample, so cut anything that would break the table
+            if (cell.length() > widths[i]) cell = cell.substring(0, widths[i]);
+            sb.append("| ").append(cell);
+            for (int pad = cell.length(); pad < widths[i]; pad++) sb.append(' ');
+            sb.append(' ');
+        }
+        sb.append('|');
+        out.println(sb);
+    }
+
+    // Helper to print the horizontal lines (+--------+-------+)
+    private static void printTableSeparator(int[] widths, PrintWriter out) {
+        StringBuilder sb = new StringBuilder("+");
+        for (int w : widths) {
+            // w + 2 accounts for the extra spaces around each cell
+            sb.append("-".repeat(w + 2)).append('+');
+        }
+        out.println(sb);
+    }
+}